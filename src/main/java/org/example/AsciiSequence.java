@@ -0,0 +1,75 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable {@link CharSequence} view over a range of single-byte (ASCII / ISO-8859-1) text in a {@link ByteBuffer}.
+ * The view copies nothing, so a direct buffer can be matched against a {@link java.util.regex.Pattern} or parsed by a
+ * {@link java.time.format.DateTimeFormatter} without the text ever being turned into a {@link String}.
+ */
+final class AsciiSequence implements CharSequence
+{
+    private ByteBuffer buffer;
+
+    private int offset;
+
+    private int length;
+
+    /**
+     * Points this view at a new range of bytes.
+     *
+     * @param buffer The buffer that holds the text.
+     * @param offset The absolute index of the first byte.
+     * @param length The number of bytes in the text.
+     * @return This view, for chaining.
+     */
+    AsciiSequence wrap( ByteBuffer buffer, int offset, int length )
+    {
+        if( offset < 0 || length < 0 || offset > buffer.limit() - length )
+        {
+            throw new IndexOutOfBoundsException( "Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for limit " + buffer.limit() );
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length()
+    {
+        return length;
+    }
+
+    @Override
+    public char charAt( int index )
+    {
+        if( index < 0 || index >= length )
+        {
+            throw new IndexOutOfBoundsException( index );
+        }
+        return (char) ( buffer.get( offset + index ) & 0xFF );
+    }
+
+    @Override
+    public CharSequence subSequence( int start, int end )
+    {
+        if( start < 0 || end > length || start > end )
+        {
+            throw new IndexOutOfBoundsException( "start " + start + ", end " + end + ", length " + length );
+        }
+        return new AsciiSequence().wrap( buffer, offset + start, end - start );
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder( length );
+        for( int i = 0; i < length; i++ )
+        {
+            builder.append( charAt( i ) );
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,281 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+
+/**
+ * Validates a column of single-byte text held in a {@link ByteBuffer} and records one result bit per row.
+ * <p>
+ * The buffers are normally direct (off-heap), and rows are read through a reusable {@link CharSequence} view, so
+ * validating a column does not create a {@link String} per row. The checks are the ones {@link Validator} uses for
+ * strings; {@link FieldType#COUNTRY} and {@link FieldType#URL} are not supported because their checks need a
+ * {@link String}. Dates and date-times in the usual ISO form are parsed directly from the bytes, so invalid rows do
+ * not allocate an exception either.
+ * <p>
+ * Offsets, lengths and row indexes are {@code int}s, so one call covers at most 2 GB of column data and 2 GB of
+ * result bitmap. Code using the foreign memory API can pass {@code segment.asByteBuffer()}, which also fails for
+ * segments over 2 GB. Validate a larger column in chunks, with offsets relative to the start of each chunk and a
+ * multiple of 8 rows per chunk so that each chunk's results fill whole bitmap bytes:
+ * <pre>{@code
+ * ByteBuffer chunk = data.asSlice( chunkStart, chunkBytes ).asByteBuffer();
+ * ByteBuffer chunkBitmap = bitmap.asSlice( firstRow / 8, ColumnValidator.bitmapSize( chunkRows ) ).asByteBuffer();
+ * validator.validate( chunk, chunkOffsets, chunkLengths, chunkRows, chunkBitmap );
+ * }</pre>
+ * An instance reuses its matcher and view between rows and is not thread-safe.
+ */
+public class ColumnValidator
+{
+    private final FieldType type;
+
+    private final AsciiSequence row = new AsciiSequence();
+
+    private final Matcher matcher;
+
+    // The current date as yyyyMMdd, read once per call to validate
+    private int today;
+
+    /**
+     * Creates a validator for a column of the given field type.
+     *
+     * @param type The field type of the column.
+     * @throws IllegalArgumentException if the field type cannot be checked without a {@link String}.
+     */
+    public ColumnValidator( FieldType type )
+    {
+        this.type = type;
+        switch( type )
+        {
+            case EMAIL:
+                matcher = Validator.EMAIL_PATTERN.matcher( "" );
+                break;
+            case PASSWORD:
+                matcher = Validator.PASSWORD_PATTERN.matcher( "" );
+                break;
+            case STRING:
+                matcher = Validator.ALPHABETIC_PATTERN.matcher( "" );
+                break;
+            case NUMBER:
+                matcher = Validator.NUMERIC_PATTERN.matcher( "" );
+                break;
+            case DOB:
+            case DATE_TIME:
+                matcher = null;
+                break;
+            default:
+                throw new IllegalArgumentException( "Columnar validation is not supported for " + type );
+        }
+    }
+
+    /**
+     * Returns the number of bytes needed for a result bitmap covering the given number of rows.
+     *
+     * @param rows The number of rows.
+     * @return The bitmap size in bytes.
+     */
+    public static int bitmapSize( int rows )
+    {
+        return ( rows + 7 ) >>> 3;
+    }
+
+    /**
+     * Reads the result for one row from a bitmap written by {@link #validate}.
+     *
+     * @param bitmap The result bitmap.
+     * @param row    The row index.
+     * @return {@code true} if the row was valid, {@code false} otherwise.
+     */
+    public static boolean isValid( ByteBuffer bitmap, int row )
+    {
+        return ( bitmap.get( row >>> 3 ) & ( 1 << ( row & 7 ) ) ) != 0;
+    }
+
+    /**
+     * Validates the first {@code rows} rows of a column.
+     * Row {@code i} is the text at absolute index {@code offsets.get(i)} of {@code data} spanning {@code lengths.get(i)}
+     * bytes. Bit {@code i & 7} of byte {@code i >>> 3} of {@code bitmap} is set if the row is valid and cleared
+     * otherwise.
+     *
+     * @param data    The column data.
+     * @param offsets The start of each row in {@code data}.
+     * @param lengths The length of each row in bytes.
+     * @param rows    The number of rows to validate.
+     * @param bitmap  The buffer the results are written to, at least {@link #bitmapSize(int)} bytes long.
+     * @return The number of valid rows.
+     */
+    public int validate( ByteBuffer data, IntBuffer offsets, IntBuffer lengths, int rows, ByteBuffer bitmap )
+    {
+        if( bitmap.limit() < bitmapSize( rows ) )
+        {
+            throw new IllegalArgumentException( "Bitmap of " + bitmap.limit() + " bytes is too small for " + rows
+                    + " rows" );
+        }
+
+        if( type == FieldType.DOB )
+        {
+            LocalDate now = LocalDate.now();
+            today = now.getYear() * 10000 + now.getMonthValue() * 100 + now.getDayOfMonth();
+        }
+
+        int valid = 0;
+        int bits = 0;
+        for( int i = 0; i < rows; i++ )
+        {
+            if( validateRow( data, offsets.get( i ), lengths.get( i ) ) )
+            {
+                bits |= 1 << ( i & 7 );
+                valid++;
+            }
+            if( ( i & 7 ) == 7 )
+            {
+                bitmap.put( i >>> 3, (byte) bits );
+                bits = 0;
+            }
+        }
+        if( ( rows & 7 ) != 0 )
+        {
+            bitmap.put( rows >>> 3, (byte) bits );
+        }
+        return valid;
+    }
+
+    /**
+     * Validates a single row, applying the same rules as the matching {@link Validator} method.
+     */
+    private boolean validateRow( ByteBuffer data, int offset, int length )
+    {
+        row.wrap( data, offset, length );
+        switch( type )
+        {
+            case EMAIL:
+                // Trim to remove leading/trailing whitespace, as validateEmail does
+                int start = offset;
+                int end = offset + length;
+                while( start < end && ( data.get( start ) & 0xFF ) <= ' ' )
+                {
+                    start++;
+                }
+                while( end > start && ( data.get( end - 1 ) & 0xFF ) <= ' ' )
+                {
+                    end--;
+                }
+                return length > 0 && matcher.reset( row.wrap( data, start, end - start ) ).matches();
+            case PASSWORD:
+                return !isBlank( data, offset, length ) && matcher.reset( row ).matches();
+            case STRING:
+            case NUMBER:
+                return length > 0 && matcher.reset( row ).matches();
+            case DOB:
+                // Only the yyyy-MM-dd form of ISO_LOCAL_DATE can hold a year from 1900 to today
+                int date = length == 10 ? parseDate( data, offset ) : -1;
+                return date >= 19000101 && date <= today;
+            case DATE_TIME:
+                return validateDateTime( data, offset, length );
+            default:
+                throw new AssertionError( type );
+        }
+    }
+
+    /**
+     * Applies the rules of ISO_LOCAL_DATE_TIME, as {@link Validator#validateDateTime(String)} does.
+     * Rows with a signed year are rare and are left to the JDK parser.
+     */
+    private boolean validateDateTime( ByteBuffer data, int offset, int length )
+    {
+        if( length > 0 && ( data.get( offset ) == '+' || data.get( offset ) == '-' ) )
+        {
+            try
+            {
+                return Validator.checkDateTime( row.wrap( data, offset, length ) );
+            }
+            catch( DateTimeParseException e )
+            {
+                // Parse failures are expected in bulk data, so they are not printed
+                return false;
+            }
+        }
+
+        // yyyy-MM-ddTHH:mm is the shortest form; the 'T' is matched case-insensitively like the JDK parser does
+        if( length < 16 || parseDate( data, offset ) < 0 || ( data.get( offset + 10 ) | 0x20 ) != 't' )
+        {
+            return false;
+        }
+        int hour = digits( data, offset + 11, 2 );
+        int minute = digits( data, offset + 14, 2 );
+        if( hour < 0 || hour > 23 || data.get( offset + 13 ) != ':' || minute < 0 || minute > 59 )
+        {
+            return false;
+        }
+        if( length == 16 )
+        {
+            return true;
+        }
+
+        // Optional :ss, then an optional '.' followed by up to nine fraction digits
+        int second = length >= 19 ? digits( data, offset + 17, 2 ) : -1;
+        if( data.get( offset + 16 ) != ':' || second < 0 || second > 59 )
+        {
+            return false;
+        }
+        if( length == 19 )
+        {
+            return true;
+        }
+        int fraction = length - 20;
+        return data.get( offset + 19 ) == '.' && fraction <= 9 && digits( data, offset + 20, fraction ) >= 0;
+    }
+
+    /**
+     * Parses an unsigned yyyy-MM-dd date, rejecting days that do not exist as the STRICT resolver does.
+     *
+     * @return The date as yyyyMMdd, or -1 if the text is not a valid date.
+     */
+    private static int parseDate( ByteBuffer data, int offset )
+    {
+        int year = digits( data, offset, 4 );
+        int month = digits( data, offset + 5, 2 );
+        int day = digits( data, offset + 8, 2 );
+        if( year < 0 || data.get( offset + 4 ) != '-' || month < 1 || month > 12 || data.get( offset + 7 ) != '-'
+                || day < 1 || day > Month.of( month ).length( Year.isLeap( year ) ) )
+        {
+            return -1;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Parses a run of ASCII digits.
+     *
+     * @return The value, or -1 if any byte is not a digit.
+     */
+    private static int digits( ByteBuffer data, int offset, int count )
+    {
+        int value = 0;
+        for( int i = offset; i < offset + count; i++ )
+        {
+            int digit = data.get( i ) - '0';
+            if( digit < 0 || digit > 9 )
+            {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isBlank( ByteBuffer data, int offset, int length )
+    {
+        for( int i = offset; i < offset + length; i++ )
+        {
+            if( ( data.get( i ) & 0xFF ) > ' ' )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,161 @@
+package org.example;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The table of country names used by {@link Validator#validateCountry(String)}.
+ * <p>
+ * Building the table at runtime loads the JDK's locale data for every ISO country, which dominates the cost of
+ * initializing {@link Validator}. The build therefore runs {@link #main(String[])} to precompute the table for a
+ * few display locales into class-path resources, and {@link #load()} reads the one matching the default display
+ * locale in a single read. The shipped tables are the canonical country names for those locales, so results are
+ * the same on every JVM whatever locale data its JDK carries. For any other locale, or if the system property
+ * {@value #PRECOMPUTED_PROPERTY} is {@code false}, the table is built at runtime from the running JDK's locale data.
+ * Names are lower-cased with {@link Locale#ROOT} so the result does not depend on the default locale of either JVM.
+ */
+public final class CountryTable
+{
+    /**
+     * System property that disables the precomputed tables when set to {@code false}.
+     */
+    static final String PRECOMPUTED_PROPERTY = "org.example.Validator.precomputedTables";
+
+    /**
+     * Resource magic, "CTRY" in ASCII.
+     */
+    private static final int MAGIC = 0x43545259;
+
+    private CountryTable()
+    {
+    }
+
+    /**
+     * Loads the country table for the default display locale.
+     *
+     * @return A map where lower-case country names are keys and country codes are values.
+     */
+    static Map<String,String> load()
+    {
+        Locale locale = Locale.getDefault( Locale.Category.DISPLAY );
+        if( Boolean.parseBoolean( System.getProperty( PRECOMPUTED_PROPERTY, "true" ) ) )
+        {
+            Map<String,String> table = read( locale );
+            if( table != null )
+            {
+                return table;
+            }
+        }
+        return build( locale );
+    }
+
+    /**
+     * Creates a map of country codes and names.
+     * This method iterates over all ISO country codes and retrieves their corresponding
+     * country names using {@link Locale#getDisplayCountry(Locale)}.
+     *
+     * @param display The locale the country names are displayed in.
+     * @return A map where country names are keys and country codes are values.
+     */
+    static Map<String,String> build( Locale display )
+    {
+        Map<String,String> countryCodeMap = new HashMap<>();
+        String[] countryCodes = Locale.getISOCountries();
+        for( String countryCode : countryCodes )
+        {
+            Locale locale = Locale.of( "", countryCode );
+            String countryName = locale.getDisplayCountry( display );
+            countryCodeMap.put( countryName.toLowerCase( Locale.ROOT ), countryCode );
+        }
+        return countryCodeMap;
+    }
+
+    /**
+     * Reads the precomputed table for a display locale.
+     *
+     * @param display The locale the country names are displayed in.
+     * @return The table, or {@code null} if none was precomputed for the locale.
+     */
+    static Map<String,String> read( Locale display )
+    {
+        try( InputStream in = CountryTable.class.getResourceAsStream( resourceName( display ) ) )
+        {
+            if( in == null )
+            {
+                return null;
+            }
+
+            DataInputStream data = new DataInputStream( new ByteArrayInputStream( in.readAllBytes() ) );
+            if( data.readInt() != MAGIC )
+            {
+                return null;
+            }
+            int size = data.readInt();
+            Map<String,String> countryCodeMap = new HashMap<>( size * 4 / 3 + 1 );
+            for( int i = 0; i < size; i++ )
+            {
+                countryCodeMap.put( data.readUTF(), data.readUTF() );
+            }
+            return countryCodeMap;
+        }
+        catch( IOException e )
+        {
+            // A damaged resource is not fatal, the table can still be built at runtime
+            return null;
+        }
+    }
+
+    /**
+     * Writes a table in the format {@link #read(Locale)} expects.
+     *
+     * @param table The table to write.
+     * @param out   The stream to write to.
+     * @throws IOException if the table cannot be written.
+     */
+    static void write( Map<String,String> table, OutputStream out ) throws IOException
+    {
+        DataOutputStream data = new DataOutputStream( out );
+        data.writeInt( MAGIC );
+        data.writeInt( table.size() );
+        for( Map.Entry<String,String> entry : table.entrySet() )
+        {
+            data.writeUTF( entry.getKey() );
+            data.writeUTF( entry.getValue() );
+        }
+        data.flush();
+    }
+
+    private static String resourceName( Locale display )
+    {
+        return "country-table-" + display.toLanguageTag() + ".bin";
+    }
+
+    /**
+     * Precomputes country tables into a class output directory. Run by the build after compilation.
+     *
+     * @param args The output directory, followed by the language tags of the display locales to precompute.
+     * @throws IOException if a table cannot be written.
+     */
+    public static void main( String[] args ) throws IOException
+    {
+        Path directory = Path.of( args[0], CountryTable.class.getPackageName().replace( '.', '/' ) );
+        Files.createDirectories( directory );
+        for( int i = 1; i < args.length; i++ )
+        {
+            Locale display = Locale.forLanguageTag( args[i] );
+            try( OutputStream out = Files.newOutputStream( directory.resolve( resourceName( display ) ) ) )
+            {
+                write( build( display ), out );
+            }
+        }
+    }
+}
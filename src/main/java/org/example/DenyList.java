@@ -0,0 +1,387 @@
+package org.example;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.IDN;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * A compact deny-list of domains and hosts backed by a Bloom filter.
+ * <p>
+ * The filter never misses an entry that was added, but may report an entry that was not. When an exact source is
+ * available (a database, a sorted file, ...) it can be attached with {@link #withConfirmation(Predicate)}; it is
+ * consulted only when the filter reports a hit. Without it, every filter hit counts as denied.
+ * <p>
+ * The filter is held in a single {@link ByteBuffer} in the same layout that {@link #writeTo(Path)} writes, so a list
+ * loaded with {@link #load(Path)} is memory-mapped and does not occupy the Java heap.
+ * <p>
+ * Entries and lookups are normalized the way browsers resolve hosts before they are hashed or confirmed:
+ * percent-escapes are decoded, the host is converted to its ASCII (punycode) form, which also maps full-width and
+ * ideographic dots to {@code '.'}, it is lower-cased, and one trailing dot is removed. So {@code MAILINATOR.com.},
+ * {@code mailinator%2Ecom} and {@code mailinator.com\u3002} all match an entry {@code mailinator.com}, and a Unicode
+ * host matches an entry stored in punycode.
+ */
+public class DenyList
+{
+    /**
+     * File magic, "DENY" in ASCII.
+     */
+    private static final int MAGIC = 0x44454E59;
+
+    private static final int VERSION = 2;
+
+    // Header layout: magic, version, hash count (ints), then entry count and bit count (longs)
+    private static final int HASHES_OFFSET = 8;
+
+    private static final int ENTRIES_OFFSET = 12;
+
+    private static final int BITS_OFFSET = 20;
+
+    private static final int HEADER_SIZE = 28;
+
+    private static final long MAX_BITS = (long) ( Integer.MAX_VALUE - HEADER_SIZE ) * Byte.SIZE;
+
+    private final ByteBuffer buffer;
+
+    private final int hashes;
+
+    private final long bits;
+
+    private final Predicate<String> confirmation;
+
+    private DenyList( ByteBuffer buffer, Predicate<String> confirmation )
+    {
+        if( buffer.limit() < HEADER_SIZE || buffer.getInt( 0 ) != MAGIC || buffer.getInt( 4 ) != VERSION )
+        {
+            throw new IllegalArgumentException( "Not a deny-list filter" );
+        }
+        this.buffer = buffer;
+        this.hashes = buffer.getInt( HASHES_OFFSET );
+        this.bits = buffer.getLong( BITS_OFFSET );
+        if( hashes < 1 || bits < Byte.SIZE || bits > MAX_BITS || buffer.limit() != HEADER_SIZE + bits / Byte.SIZE )
+        {
+            throw new IllegalArgumentException( "Corrupt deny-list filter" );
+        }
+        this.confirmation = confirmation;
+    }
+
+    /**
+     * Creates an empty deny-list sized for the expected number of entries.
+     *
+     * @param expectedEntries   The number of entries that will be added.
+     * @param falsePositiveRate The acceptable false-positive rate once that many entries are added, between 0 and 1.
+     * @return An empty, writable deny-list.
+     */
+    public static DenyList create( long expectedEntries, double falsePositiveRate )
+    {
+        if( expectedEntries < 1 || !( falsePositiveRate > 0 && falsePositiveRate < 1 ) )
+        {
+            throw new IllegalArgumentException( "Expected entries must be positive and the false-positive rate "
+                    + "must be between 0 and 1" );
+        }
+
+        // Optimal Bloom filter size and hash count for n entries at rate p
+        double ln2 = Math.log( 2 );
+        long bits = (long) Math.ceil( -expectedEntries * Math.log( falsePositiveRate ) / ( ln2 * ln2 ) );
+        bits = ( bits + Byte.SIZE - 1 ) / Byte.SIZE * Byte.SIZE;
+        if( bits > MAX_BITS )
+        {
+            throw new IllegalArgumentException( "A filter for " + expectedEntries + " entries at rate "
+                    + falsePositiveRate + " needs more than 2 GB" );
+        }
+        int hashes = Math.max( 1, (int) Math.round( (double) bits / expectedEntries * ln2 ) );
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect( (int) ( HEADER_SIZE + bits / Byte.SIZE ) );
+        buffer.putInt( 0, MAGIC );
+        buffer.putInt( 4, VERSION );
+        buffer.putInt( HASHES_OFFSET, hashes );
+        buffer.putLong( ENTRIES_OFFSET, 0 );
+        buffer.putLong( BITS_OFFSET, bits );
+        return new DenyList( buffer, null );
+    }
+
+    /**
+     * Loads a deny-list written by {@link #writeTo(Path)} by memory-mapping the file read-only.
+     *
+     * @param file The file to load.
+     * @return A read-only deny-list.
+     * @throws IOException if the file cannot be read.
+     */
+    public static DenyList load( Path file ) throws IOException
+    {
+        try( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) )
+        {
+            return new DenyList( channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() ), null );
+        }
+    }
+
+    /**
+     * Writes this deny-list to a file that {@link #load(Path)} can map.
+     *
+     * @param file The file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeTo( Path file ) throws IOException
+    {
+        try( FileChannel channel = FileChannel.open( file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING ) )
+        {
+            ByteBuffer source = buffer.duplicate().clear();
+            while( source.hasRemaining() )
+            {
+                channel.write( source );
+            }
+        }
+    }
+
+    /**
+     * Returns a deny-list sharing this filter that confirms each filter hit with an exact check.
+     *
+     * @param exact Returns {@code true} if a normalized domain or host really is denied.
+     * @return A deny-list that reports only confirmed hits.
+     */
+    public DenyList withConfirmation( Predicate<String> exact )
+    {
+        return new DenyList( buffer, exact );
+    }
+
+    /**
+     * Adds a domain or host to the deny-list.
+     *
+     * @param entry The domain or host to deny.
+     * @throws IllegalArgumentException if the entry is not a valid host name.
+     * @throws java.nio.ReadOnlyBufferException if the deny-list was loaded with {@link #load(Path)}.
+     */
+    public void add( String entry )
+    {
+        String host = normalize( entry, 0, entry.length() );
+        if( host == null )
+        {
+            throw new IllegalArgumentException( "Not a valid host name: " + entry );
+        }
+
+        long hash = hash( host, 0, host.length() );
+        int h1 = (int) hash;
+        int h2 = (int) ( hash >>> 32 );
+        for( int i = 0; i < hashes; i++ )
+        {
+            long bit = index( h1, h2, i );
+            int position = HEADER_SIZE + (int) ( bit >>> 3 );
+            buffer.put( position, (byte) ( buffer.get( position ) | ( 1 << ( bit & 7 ) ) ) );
+        }
+        buffer.putLong( ENTRIES_OFFSET, buffer.getLong( ENTRIES_OFFSET ) + 1 );
+    }
+
+    /**
+     * Checks whether the filter reports a domain or host, without exact confirmation.
+     *
+     * @param entry The domain or host to check.
+     * @return {@code false} if the entry was definitely not added or is not a valid host name, {@code true} if it
+     * probably was added.
+     */
+    public boolean mightContain( CharSequence entry )
+    {
+        String host = normalize( entry, 0, entry.length() );
+        return host != null && mightContain( host, 0, host.length() );
+    }
+
+    /**
+     * Checks whether a host, or any parent domain of it, is denied.
+     * For {@code mail.example.com} the entries {@code mail.example.com}, {@code example.com} and {@code com} are
+     * checked.
+     *
+     * @param host The host to check.
+     * @return {@code true} if the host or a parent domain is denied, or if the host is not a valid host name;
+     * {@code false} otherwise.
+     */
+    public boolean isDenied( String host )
+    {
+        return isDenied( host, 0, host.length() );
+    }
+
+    /**
+     * Checks whether the host in {@code text[start, end)}, or any parent domain of it, is denied.
+     * A host that cannot be normalized is treated as denied, since it cannot be shown not to be on the list.
+     */
+    boolean isDenied( CharSequence text, int start, int end )
+    {
+        String host = normalize( text, start, end );
+        if( host == null )
+        {
+            return true;
+        }
+
+        for( int i = 0; i < host.length(); i++ )
+        {
+            if( i == 0 || host.charAt( i - 1 ) == '.' )
+            {
+                if( mightContain( host, i, host.length() ) && confirm( host, i ) )
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Normalizes the host in {@code text[start, end)}: percent-escapes are decoded as UTF-8, the result is converted
+     * with {@link IDN#toASCII(String)} and lower-cased, and one trailing dot is removed.
+     *
+     * @return The normalized host, or {@code null} if it is empty or not a valid host name.
+     */
+    static String normalize( CharSequence text, int start, int end )
+    {
+        String decoded = percentDecode( text, start, end );
+        if( decoded == null )
+        {
+            return null;
+        }
+
+        String host;
+        try
+        {
+            host = IDN.toASCII( decoded, IDN.ALLOW_UNASSIGNED ).toLowerCase( Locale.ROOT );
+        }
+        catch( IllegalArgumentException e )
+        {
+            return null;
+        }
+        if( host.endsWith( "." ) )
+        {
+            host = host.substring( 0, host.length() - 1 );
+        }
+        return host.isEmpty() ? null : host;
+    }
+
+    /**
+     * Decodes percent-escapes in {@code text[start, end)} as UTF-8.
+     *
+     * @return The decoded text, or {@code null} if an escape is malformed or the bytes are not valid UTF-8.
+     */
+    static String percentDecode( CharSequence text, int start, int end )
+    {
+        StringBuilder decoded = new StringBuilder( end - start );
+        int i = start;
+        while( i < end )
+        {
+            if( text.charAt( i ) != '%' )
+            {
+                decoded.append( text.charAt( i++ ) );
+                continue;
+            }
+
+            // Decode a run of escapes together, since one character may span several bytes
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            while( i < end && text.charAt( i ) == '%' )
+            {
+                int high = i + 2 < end ? Character.digit( text.charAt( i + 1 ), 16 ) : -1;
+                int low = i + 2 < end ? Character.digit( text.charAt( i + 2 ), 16 ) : -1;
+                if( high < 0 || low < 0 )
+                {
+                    return null;
+                }
+                bytes.write( high << 4 | low );
+                i += 3;
+            }
+            try
+            {
+                decoded.append( StandardCharsets.UTF_8.newDecoder().decode( ByteBuffer.wrap( bytes.toByteArray() ) ) );
+            }
+            catch( CharacterCodingException e )
+            {
+                return null;
+            }
+        }
+        return decoded.toString();
+    }
+
+    /**
+     * Returns the number of entries added to this deny-list.
+     *
+     * @return The entry count.
+     */
+    public long size()
+    {
+        return buffer.getLong( ENTRIES_OFFSET );
+    }
+
+    /**
+     * Returns the expected false-positive rate of the filter for the entries added so far.
+     * This is the rate of a single probe, as made by {@link #mightContain(CharSequence)}. {@link #isDenied(String)}
+     * probes the host and each parent domain, so its rate is about this value times the number of labels in the
+     * host, before any exact confirmation.
+     *
+     * @return The probability that an entry that was not added is reported by the filter.
+     */
+    public double falsePositiveRate()
+    {
+        return Math.pow( 1 - Math.exp( -(double) hashes * size() / bits ), hashes );
+    }
+
+    /**
+     * Returns the memory used by the filter, including its header.
+     *
+     * @return The size of the filter in bytes.
+     */
+    public long memoryFootprint()
+    {
+        return buffer.capacity();
+    }
+
+    private boolean mightContain( CharSequence text, int start, int end )
+    {
+        long hash = hash( text, start, end );
+        int h1 = (int) hash;
+        int h2 = (int) ( hash >>> 32 );
+        for( int i = 0; i < hashes; i++ )
+        {
+            long bit = index( h1, h2, i );
+            if( ( buffer.get( HEADER_SIZE + (int) ( bit >>> 3 ) ) & ( 1 << ( bit & 7 ) ) ) == 0 )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean confirm( String host, int start )
+    {
+        return confirmation == null || confirmation.test( host.substring( start ) );
+    }
+
+    /**
+     * Derives the i-th bit index from two 32-bit hashes (Kirsch-Mitzenmacher double hashing).
+     */
+    private long index( int h1, int h2, int i )
+    {
+        long combined = ( h1 & 0xFFFFFFFFL ) + (long) i * ( h2 & 0xFFFFFFFFL );
+        return Long.remainderUnsigned( combined, bits );
+    }
+
+    /**
+     * Hashes the characters of a normalized host {@code text[start, end)} with FNV-1a followed by a 64-bit finalizer.
+     */
+    private static long hash( CharSequence text, int start, int end )
+    {
+        long hash = 0xCBF29CE484222325L;
+        for( int i = start; i < end; i++ )
+        {
+            hash ^= text.charAt( i );
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
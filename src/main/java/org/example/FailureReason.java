@@ -0,0 +1,24 @@
+package org.example;
+
+/**
+ * Why a value failed validation, as recorded by {@link ValidationReport}.
+ */
+public enum FailureReason
+{
+    /**
+     * The value is null or contains only whitespace.
+     */
+    MISSING,
+    /**
+     * The value does not have the expected syntax.
+     */
+    MALFORMED,
+    /**
+     * The value is well formed but outside the accepted range, for example a date of birth in the future.
+     */
+    OUT_OF_RANGE,
+    /**
+     * The value is well formed but not a known value, for example an unrecognised country name.
+     */
+    UNKNOWN
+}
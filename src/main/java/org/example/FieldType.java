@@ -0,0 +1,48 @@
+package org.example;
+
+/**
+ * The kinds of field that {@link Validator} knows how to check.
+ * Each constant delegates to the matching {@code validate*} method so that bulk callers can pick a check by value.
+ */
+public enum FieldType
+{
+    EMAIL,
+    PASSWORD,
+    DOB,
+    DATE_TIME,
+    COUNTRY,
+    URL,
+    STRING,
+    NUMBER;
+
+    /**
+     * Validates a value with the check that belongs to this field type.
+     *
+     * @param value The value to validate.
+     * @return {@code true} if the value is valid for this field type, {@code false} otherwise.
+     */
+    public boolean validate( String value )
+    {
+        switch( this )
+        {
+            case EMAIL:
+                return Validator.validateEmail( value );
+            case PASSWORD:
+                return Validator.validatePassword( value );
+            case DOB:
+                return Validator.validateDOB( value );
+            case DATE_TIME:
+                return Validator.validateDateTime( value );
+            case COUNTRY:
+                return Validator.validateCountry( value );
+            case URL:
+                return Validator.validateURL( value );
+            case STRING:
+                return Validator.validateString( value );
+            case NUMBER:
+                return Validator.validateNumber( value );
+            default:
+                throw new AssertionError( this );
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving sketch of the most frequent values in a stream, tracking at most a fixed number of values.
+ * When a new value arrives and the sketch is full, it replaces the value with the lowest count and inherits that
+ * count, so reported counts are upper bounds that are exact for values that were never evicted.
+ */
+final class SpaceSaving
+{
+    private final String[] values;
+
+    private final long[] counts;
+
+    private final Map<String,Integer> slots;
+
+    private int size;
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param capacity The number of values to track.
+     */
+    SpaceSaving( int capacity )
+    {
+        values = new String[capacity];
+        counts = new long[capacity];
+        slots = new HashMap<>( capacity * 4 / 3 + 1 );
+    }
+
+    /**
+     * Counts a number of occurrences of a value.
+     *
+     * @param value The value.
+     * @param count The number of occurrences.
+     */
+    void add( String value, long count )
+    {
+        Integer slot = slots.get( value );
+        if( slot != null )
+        {
+            counts[slot] += count;
+            return;
+        }
+
+        if( size < values.length )
+        {
+            slot = size++;
+        }
+        else
+        {
+            slot = 0;
+            for( int i = 1; i < size; i++ )
+            {
+                if( counts[i] < counts[slot] )
+                {
+                    slot = i;
+                }
+            }
+            slots.remove( values[slot] );
+        }
+        values[slot] = value;
+        counts[slot] += count;
+        slots.put( value, slot );
+    }
+
+    /**
+     * Adds the values counted by another sketch to this one.
+     *
+     * @param other The sketch to merge.
+     */
+    void merge( SpaceSaving other )
+    {
+        for( int i = 0; i < other.size; i++ )
+        {
+            add( other.values[i], other.counts[i] );
+        }
+    }
+
+    /**
+     * Returns the most frequent values, most frequent first.
+     *
+     * @param n The maximum number of values to return.
+     * @return The values and their estimated counts.
+     */
+    List<Map.Entry<String,Long>> top( int n )
+    {
+        List<Map.Entry<String,Long>> entries = new ArrayList<>( size );
+        for( int i = 0; i < size; i++ )
+        {
+            entries.add( new AbstractMap.SimpleImmutableEntry<>( values[i], counts[i] ) );
+        }
+        entries.sort( Map.Entry.<String,Long>comparingByValue().reversed() );
+        return entries.subList( 0, Math.min( n, entries.size() ) );
+    }
+}
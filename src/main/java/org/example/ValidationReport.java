@@ -0,0 +1,261 @@
+package org.example;
+
+import java.net.URISyntaxException;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/**
+ * Aggregate results of validating many values: how many were checked and failed per field, failures per reason,
+ * the most frequent invalid values and the number of distinct invalid values.
+ * <p>
+ * Memory use is bounded regardless of input size. Counts are kept in primitive arrays indexed by
+ * {@link FieldType} and {@link FailureReason}, the most frequent invalid values are approximated with a Space-Saving
+ * sketch and distinct values are estimated with HyperLogLog. A report is not thread-safe; give each thread its own
+ * report and {@link #merge(ValidationReport)} them at the end, which {@link #collector(FieldType)} does for parallel
+ * streams. Unlike the single-value validators, recording a value never prints parse errors.
+ */
+public class ValidationReport
+{
+    /**
+     * Number of invalid values tracked per field when none is given.
+     */
+    public static final int DEFAULT_TOP_N = 20;
+
+    /**
+     * Minimum number of values the sketch tracks per field. Space-Saving keeps every value that makes up more than
+     * 1/capacity of the failures, so tracking more values than are reported makes the reported ones reliable.
+     */
+    private static final int MIN_SKETCH_CAPACITY = 64;
+
+    private static final int FIELDS = FieldType.values().length;
+
+    private static final int REASONS = FailureReason.values().length;
+
+    private final int topN;
+
+    private final long[] checked = new long[FIELDS];
+
+    // Indexed by field ordinal * REASONS + reason ordinal
+    private final long[] failures = new long[FIELDS * REASONS];
+
+    // Created on the first failure of each field
+    private final SpaceSaving[] invalidValues = new SpaceSaving[FIELDS];
+
+    private final HyperLogLog[] distinctInvalid = new HyperLogLog[FIELDS];
+
+    /**
+     * Creates an empty report that tracks the {@value #DEFAULT_TOP_N} most frequent invalid values per field.
+     */
+    public ValidationReport()
+    {
+        this( DEFAULT_TOP_N );
+    }
+
+    /**
+     * Creates an empty report.
+     *
+     * @param topN The number of most frequent invalid values to track per field.
+     */
+    public ValidationReport( int topN )
+    {
+        if( topN < 1 )
+        {
+            throw new IllegalArgumentException( "topN must be positive" );
+        }
+        this.topN = topN;
+    }
+
+    /**
+     * Returns a collector that validates a stream of values of one field into a report.
+     * Parallel streams fill one report per thread and merge them when they finish.
+     *
+     * @param field The field type of the values.
+     * @return A collector producing the report.
+     */
+    public static Collector<String,ValidationReport,ValidationReport> collector( FieldType field )
+    {
+        return Collector.of( ValidationReport::new, ( report, value ) -> report.record( field, value ),
+                ValidationReport::merge, Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH );
+    }
+
+    /**
+     * Validates a value and adds the result to the report.
+     *
+     * @param field The field type of the value.
+     * @param value The value to validate.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     */
+    public boolean record( FieldType field, String value )
+    {
+        int index = field.ordinal();
+        checked[index]++;
+
+        FailureReason reason = classify( field, value );
+        if( reason == null )
+        {
+            return true;
+        }
+
+        failures[index * REASONS + reason.ordinal()]++;
+        if( value != null )
+        {
+            if( invalidValues[index] == null )
+            {
+                createSketches( index );
+            }
+            invalidValues[index].add( value, 1 );
+            distinctInvalid[index].add( value );
+        }
+        return false;
+    }
+
+    /**
+     * Adds the results of another report to this one.
+     *
+     * @param other The report to merge.
+     * @return This report, for chaining.
+     */
+    public ValidationReport merge( ValidationReport other )
+    {
+        for( int i = 0; i < FIELDS; i++ )
+        {
+            checked[i] += other.checked[i];
+            if( other.invalidValues[i] != null )
+            {
+                if( invalidValues[i] == null )
+                {
+                    createSketches( i );
+                }
+                invalidValues[i].merge( other.invalidValues[i] );
+                distinctInvalid[i].merge( other.distinctInvalid[i] );
+            }
+        }
+        for( int i = 0; i < failures.length; i++ )
+        {
+            failures[i] += other.failures[i];
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of values of a field that were checked.
+     *
+     * @param field The field type.
+     * @return The number of values checked.
+     */
+    public long checked( FieldType field )
+    {
+        return checked[field.ordinal()];
+    }
+
+    /**
+     * Returns the number of values of a field that failed validation.
+     *
+     * @param field The field type.
+     * @return The number of failures.
+     */
+    public long failures( FieldType field )
+    {
+        long total = 0;
+        for( int i = 0; i < REASONS; i++ )
+        {
+            total += failures[field.ordinal() * REASONS + i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of values of a field that failed validation for a reason.
+     *
+     * @param field  The field type.
+     * @param reason The failure reason.
+     * @return The number of failures.
+     */
+    public long failures( FieldType field, FailureReason reason )
+    {
+        return failures[field.ordinal() * REASONS + reason.ordinal()];
+    }
+
+    /**
+     * Returns the most frequent invalid values of a field, most frequent first.
+     * Counts are estimates that may overcount values that appeared rarely; null values are not included.
+     *
+     * @param field The field type.
+     * @return Up to the configured number of values with their estimated counts.
+     */
+    public List<Map.Entry<String,Long>> topInvalid( FieldType field )
+    {
+        SpaceSaving sketch = invalidValues[field.ordinal()];
+        return sketch == null ? List.of() : sketch.top( topN );
+    }
+
+    /**
+     * Estimates the number of distinct invalid values of a field, for example distinct unknown countries.
+     * The estimate is within a few percent of the exact count; null values are not included.
+     *
+     * @param field The field type.
+     * @return The estimated number of distinct invalid values.
+     */
+    public long distinctInvalid( FieldType field )
+    {
+        HyperLogLog estimator = distinctInvalid[field.ordinal()];
+        return estimator == null ? 0 : estimator.estimate();
+    }
+
+    private void createSketches( int index )
+    {
+        invalidValues[index] = new SpaceSaving( Math.max( MIN_SKETCH_CAPACITY, topN * 4 ) );
+        distinctInvalid[index] = new HyperLogLog();
+    }
+
+    /**
+     * Applies the rules of the matching {@link Validator} method and explains a failure.
+     *
+     * @return The reason the value is invalid, or {@code null} if it is valid.
+     */
+    private static FailureReason classify( FieldType field, String value )
+    {
+        if( Validator.isBlank( value ) )
+        {
+            return FailureReason.MISSING;
+        }
+
+        switch( field )
+        {
+            case DOB:
+                try
+                {
+                    return Validator.checkDOB( value ) ? null : FailureReason.OUT_OF_RANGE;
+                }
+                catch( DateTimeParseException e )
+                {
+                    return FailureReason.MALFORMED;
+                }
+            case DATE_TIME:
+                try
+                {
+                    return Validator.checkDateTime( value ) ? null : FailureReason.MALFORMED;
+                }
+                catch( DateTimeParseException e )
+                {
+                    return FailureReason.MALFORMED;
+                }
+            case URL:
+                try
+                {
+                    return Validator.checkURL( value ) != null ? null : FailureReason.MALFORMED;
+                }
+                catch( URISyntaxException e )
+                {
+                    return FailureReason.MALFORMED;
+                }
+            case COUNTRY:
+                return Validator.validateCountry( value ) ? null : FailureReason.UNKNOWN;
+            default:
+                return field.validate( value ) ? null : FailureReason.MALFORMED;
+        }
+    }
+}
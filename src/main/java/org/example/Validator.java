@@ -7,10 +7,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -58,12 +59,19 @@ public class Validator
      */
     private static final String NUMERIC_REGEX = "-?\\d+";
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile( EMAIL_REGEX );
+    static final Pattern EMAIL_PATTERN = Pattern.compile( EMAIL_REGEX );
 
-    private static final Pattern PASSWORD_PATTERN = Pattern.compile( PASSWORD_REGEX );
+    static final Pattern PASSWORD_PATTERN = Pattern.compile( PASSWORD_REGEX );
 
-    // Define a map to store country codes and names
-    private static final Map<String,String> COUNTRY_CODE_MAP = createCountryCodeMap();
+    static final Pattern ALPHABETIC_PATTERN = Pattern.compile( ALPHABETIC_REGEX );
+
+    static final Pattern NUMERIC_PATTERN = Pattern.compile( NUMERIC_REGEX );
+
+    // Schemes whose URLs always have a host, even when written without "//"
+    private static final Set<String> SPECIAL_SCHEMES = Set.of( "http", "https", "ftp", "ws", "wss" );
+
+    // Lower-case country names, precomputed at build time where possible and sorted for binary search
+    private static final String[] COUNTRY_NAMES = sortedNames( CountryTable.load() );
 
     /**
      * Validates an email address using a regular expression pattern.
@@ -78,10 +86,34 @@ public class Validator
             return false; // Null or empty string is not a valid email
         }
 
-        Matcher matcher = EMAIL_PATTERN.matcher( email.trim() ); // Trim to remove leading/trailing whitespace
+        // Most addresses have nothing to trim, so only the slow path works out the trimmed region
+        if( email.charAt( 0 ) <= ' ' || email.charAt( email.length() - 1 ) <= ' ' )
+        {
+            return matchesTrimmedEmail( email );
+        }
+
+        Matcher matcher = EMAIL_PATTERN.matcher( email );
         return matcher.matches();
     }
 
+    /**
+     * Validates an email address and rejects it if its domain, or a parent domain, is on a deny-list.
+     *
+     * @param email    The email address to validate.
+     * @param denyList The deny-list of domains, for example disposable email providers.
+     * @return {@code true} if the email address is valid and its domain is not denied, {@code false} otherwise.
+     */
+    public static boolean validateEmail( String email, DenyList denyList )
+    {
+        if( !validateEmail( email ) )
+        {
+            return false;
+        }
+
+        int end = trimEnd( email, trimStart( email ) );
+        return !denyList.isDenied( email, email.lastIndexOf( '@', end - 1 ) + 1, end );
+    }
+
     /**
      * Validates a password using a regular expression pattern.
      *
@@ -90,7 +122,7 @@ public class Validator
      */
     public static boolean validatePassword( String password )
     {
-        if( password == null || password.trim().isEmpty() )
+        if( isBlank( password ) )
         {
             return false; // Null or empty string is not a valid password
         }
@@ -107,27 +139,19 @@ public class Validator
      */
     public static boolean validateDOB( String dob )
     {
-        if( dob == null || dob.trim().isEmpty() )
+        if( isBlank( dob ) )
         {
             return false; // Null or empty string is not a valid date of birth
         }
 
         try
         {
-            // Attempt to parse the date string into a LocalDate object using ISO_LOCAL_DATE format
-            LocalDate parsedDate = LocalDate.parse( dob, DateTimeFormatter.ISO_LOCAL_DATE );
-            // Get the current date
-            LocalDate currentDate = LocalDate.now();
-
-            // Assuming DOB must be a date in the past and within a reasonable range
-            // Check if the parsed date is not after the current date and the year is not earlier than 1900
-            return !parsedDate.isAfter( currentDate ) && parsedDate.getYear() >= 1900;
+            return checkDOB( dob );
         }
         catch( DateTimeParseException e )
         {
             // If an exception occurs during parsing, consider the date of birth as invalid
-            System.out.println( e.getMessage() );
-            return false;
+            return reportInvalid( e );
         }
     }
 
@@ -139,21 +163,18 @@ public class Validator
      */
     public static boolean validateDateTime( String dateTime )
     {
-        if( dateTime == null || dateTime.trim().isEmpty() )
+        if( isBlank( dateTime ) )
         {
             return false; // Null or empty string is not a valid datetime
         }
 
         try
         {
-            LocalDateTime.parse( dateTime, DateTimeFormatter.ISO_LOCAL_DATE_TIME );
-            // Check if the parsed datetime falls within a reasonable range
-            return true; // Assuming all valid datetime formats are acceptable
+            return checkDateTime( dateTime );
         }
         catch( DateTimeParseException e )
         {
-            System.out.println( e.getMessage() );
-            return false;
+            return reportInvalid( e );
         }
     }
 
@@ -165,16 +186,14 @@ public class Validator
      */
     public static boolean validateCountry( String country )
     {
-        if( country == null || country.trim().isEmpty() )
+        if( isBlank( country ) )
         {
             return false; // Null or empty string is not a valid country name
         }
 
-        // Convert input country name to lowercase for case-insensitive comparison
-        String countryLowerCase = country.trim().toLowerCase();
-
-        // Check if the lowercase country name exists in the map
-        return COUNTRY_CODE_MAP.containsKey( countryLowerCase );
+        // Search the trimmed region, lower-casing each character, instead of building a lower-case copy
+        int start = trimStart( country );
+        return isCountryName( country, start, trimEnd( country, start ) );
     }
 
     /**
@@ -185,23 +204,124 @@ public class Validator
      */
     public static boolean validateURL( String url )
     {
-        if( url == null || url.trim().isEmpty() )
+        return parseURL( url ) != null;
+    }
+
+    /**
+     * Validates a URL string and rejects it if its host, or a parent domain of the host, is on a deny-list.
+     * The domain of every address in a {@code mailto:} URL is checked as well. For {@code http}, {@code https},
+     * {@code ftp}, {@code ws} and {@code wss} URLs written without {@code //} (for example {@code http:example.com}),
+     * the host is read the way browsers read it. URLs of other schemes without an authority, such as {@code urn:},
+     * have no host and are not checked.
+     *
+     * @param url      The URL string to validate.
+     * @param denyList The deny-list of hosts and domains.
+     * @return {@code true} if the URL is valid and its host is not denied, {@code false} otherwise.
+     */
+    public static boolean validateURL( String url, DenyList denyList )
+    {
+        URI uri = parseURL( url );
+        if( uri == null )
         {
-            return false; // Null or empty string is not a valid URL
+            return false;
         }
 
-        try
+        String authority = uri.getRawAuthority();
+        if( authority != null )
         {
-            URI uri = new URI( url );
-            // Check if the scheme (protocol) is present in the URI
-            return uri.getScheme() != null;
+            return !isHostDenied( authority, denyList );
         }
-        catch( URISyntaxException e )
+
+        String scheme = uri.getScheme().toLowerCase( Locale.ROOT );
+        String schemeSpecificPart = uri.getRawSchemeSpecificPart();
+        if( scheme.equals( "mailto" ) )
         {
-            // If an exception occurs during URL creation, consider the URL as invalid
-            System.out.println( e.getMessage() );
-            return false;
+            return !isMailtoDenied( schemeSpecificPart, denyList );
+        }
+        if( SPECIAL_SCHEMES.contains( scheme ) )
+        {
+            // Browsers treat http:host and http:/host like http://host
+            int start = 0;
+            while( start < schemeSpecificPart.length() && schemeSpecificPart.charAt( start ) == '/' )
+            {
+                start++;
+            }
+            int end = start;
+            while( end < schemeSpecificPart.length() && "/?".indexOf( schemeSpecificPart.charAt( end ) ) < 0 )
+            {
+                end++;
+            }
+            return !isHostDenied( schemeSpecificPart.substring( start, end ), denyList );
+        }
+        return true;
+    }
+
+    /**
+     * Checks the host of a URL authority against a deny-list.
+     * The host is taken from the raw authority rather than {@link URI#getHost()}, which is {@code null} for hosts
+     * that are not valid server names (for example {@code x_y.example.com}) and would let them bypass the list.
+     *
+     * @param authority The raw authority, possibly with userinfo and port.
+     * @param denyList  The deny-list of hosts and domains.
+     * @return {@code true} if the host or a parent domain is denied, {@code false} otherwise.
+     */
+    private static boolean isHostDenied( String authority, DenyList denyList )
+    {
+        // Remove the userinfo, which ends at the last '@'
+        int start = authority.lastIndexOf( '@' ) + 1;
+        int end = authority.length();
+
+        // Remove the port; an IPv6 literal ends at ']' and may itself contain ':'
+        int bracket = authority.indexOf( ']', start );
+        int colon = authority.lastIndexOf( ':' );
+        if( colon >= start && colon > bracket )
+        {
+            end = colon;
+        }
+
+        return denyList.isDenied( authority, start, end );
+    }
+
+    /**
+     * Checks the domains of the addresses in a {@code mailto:} URL against a deny-list.
+     *
+     * @param schemeSpecificPart The raw part after {@code mailto:}, a comma-separated list of addresses that may be
+     *                           followed by a query.
+     * @param denyList           The deny-list of domains.
+     * @return {@code true} if any address has a denied domain or cannot be decoded, {@code false} otherwise.
+     */
+    private static boolean isMailtoDenied( String schemeSpecificPart, DenyList denyList )
+    {
+        int query = schemeSpecificPart.indexOf( '?' );
+        // Decode first so that an escaped '@' or ',' cannot hide a domain
+        String addresses = DenyList.percentDecode( schemeSpecificPart, 0,
+                query < 0 ? schemeSpecificPart.length() : query );
+        if( addresses == null )
+        {
+            return true;
+        }
+
+        int start = 0;
+        while( start <= addresses.length() )
+        {
+            int end = addresses.indexOf( ',', start );
+            end = end < 0 ? addresses.length() : end;
+            int at = addresses.lastIndexOf( '@', end - 1 );
+            if( at >= start )
+            {
+                int domainEnd = end;
+                while( domainEnd > at + 1 && addresses.charAt( domainEnd - 1 ) <= ' ' )
+                {
+                    domainEnd--;
+                }
+                if( denyList.isDenied( addresses, at + 1, domainEnd ) )
+                {
+                    return true;
+                }
+            }
+            start = end + 1;
         }
+        return false;
     }
 
     /**
@@ -219,7 +339,7 @@ public class Validator
         }
 
         // Check for non-alphabetic characters
-        return input.matches( ALPHABETIC_REGEX );
+        return ALPHABETIC_PATTERN.matcher( input ).matches();
     }
 
     /**
@@ -237,29 +357,234 @@ public class Validator
         }
 
         // Check for non-numeric characters
-        return input.matches( NUMERIC_REGEX );
+        return NUMERIC_PATTERN.matcher( input ).matches();
     }
 
     /**
-     * Creates a map of country codes and names.
-     * This method iterates over all ISO country codes and retrieves their corresponding
-     * country names using {@link Locale#getDisplayCountry()}.
+     * Checks whether a string is null or contains only whitespace, as {@code s.trim().isEmpty()} would, without
+     * allocating a trimmed copy.
+     * Kept small so that it inlines into every validator.
      *
-     * @return A map where country names are keys and country codes are values.
+     * @param s The string to check.
+     * @return {@code true} if the string is null or blank, {@code false} otherwise.
      */
-    private static Map<String,String> createCountryCodeMap()
+    static boolean isBlank( String s )
     {
-        Map<String,String> countryCodeMap = new HashMap<>();
-        String[] countryCodes = Locale.getISOCountries();
-        for( String countryCode : countryCodes )
+        if( s == null )
         {
-            Locale locale = new Locale( "", countryCode );
-            String countryName = locale.getDisplayCountry();
-            countryCodeMap.put( countryName.toLowerCase(), countryCode );
+            return true;
         }
-        return countryCodeMap;
+        for( int i = 0; i < s.length(); i++ )
+        {
+            if( s.charAt( i ) > ' ' )
+            {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Returns the index of the first character of a string that {@link String#trim()} would keep.
+     *
+     * @param s The string.
+     * @return The start of the trimmed region.
+     */
+    private static int trimStart( String s )
+    {
+        int start = 0;
+        while( start < s.length() && s.charAt( start ) <= ' ' )
+        {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the index after the last character of a string that {@link String#trim()} would keep.
+     *
+     * @param s     The string.
+     * @param start The start of the trimmed region.
+     * @return The end of the trimmed region.
+     */
+    private static int trimEnd( String s, int start )
+    {
+        int end = s.length();
+        while( end > start && s.charAt( end - 1 ) <= ' ' )
+        {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Matches an email address against the email pattern, ignoring leading and trailing whitespace.
+     * Matches the trimmed region instead of trimming a copy; kept out of {@link #validateEmail(String)} so that its
+     * fast path stays small.
+     *
+     * @param email The email address, which is not empty.
+     * @return {@code true} if the trimmed email address is valid, {@code false} otherwise.
+     */
+    private static boolean matchesTrimmedEmail( String email )
+    {
+        int start = trimStart( email );
+        Matcher matcher = EMAIL_PATTERN.matcher( email ).region( start, trimEnd( email, start ) );
+        return matcher.matches();
+    }
+
+    /**
+     * Checks whether a region of a string is a known country name, ignoring case.
+     *
+     * @param s     The string holding the region.
+     * @param start The start of the region.
+     * @param end   The end of the region.
+     * @return {@code true} if the region is a country name, {@code false} otherwise.
+     */
+    private static boolean isCountryName( String s, int start, int end )
+    {
+        int low = 0;
+        int high = COUNTRY_NAMES.length - 1;
+        while( low <= high )
+        {
+            int middle = ( low + high ) >>> 1;
+            int comparison = compareLowerCase( COUNTRY_NAMES[middle], s, start, end );
+            if( comparison < 0 )
+            {
+                low = middle + 1;
+            }
+            else if( comparison > 0 )
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compares a lower-case name with a region of a string, lower-casing the region one character at a time.
+     *
+     * @param name  The lower-case name.
+     * @param s     The string holding the region.
+     * @param start The start of the region.
+     * @param end   The end of the region.
+     * @return A negative number, zero or a positive number as the name sorts before, equal to or after the region.
+     */
+    private static int compareLowerCase( String name, String s, int start, int end )
+    {
+        int length = Math.min( name.length(), end - start );
+        for( int i = 0; i < length; i++ )
+        {
+            int difference = name.charAt( i ) - Character.toLowerCase( s.charAt( start + i ) );
+            if( difference != 0 )
+            {
+                return difference;
+            }
+        }
+        return name.length() - ( end - start );
+    }
+
+    /**
+     * Returns the country names of a table in the order {@link #compareLowerCase} searches them.
+     *
+     * @param countryCodeMap A map where lower-case country names are keys.
+     * @return The sorted names.
+     */
+    private static String[] sortedNames( Map<String,String> countryCodeMap )
+    {
+        String[] names = countryCodeMap.keySet().toArray( new String[0] );
+        Arrays.sort( names );
+        return names;
+    }
+
+    /**
+     * Reports why a value could not be parsed.
+     * This is the slow path of the validators and is kept out of them so that their fast paths stay small.
+     *
+     * @param e The parse failure.
+     * @return Always {@code false}, so that callers can return the result directly.
+     */
+    private static boolean reportInvalid( Exception e )
+    {
+        System.out.println( e.getMessage() );
+        return false;
+    }
+
+    /**
+     * Parses a URL string, reporting parse failures.
+     *
+     * @param url The URL string to parse.
+     * @return The parsed URI, or {@code null} if the string is empty or not a valid URL.
+     */
+    private static URI parseURL( String url )
+    {
+        if( isBlank( url ) )
+        {
+            return null; // Null or empty string is not a valid URL
+        }
+
+        try
+        {
+            return checkURL( url );
+        }
+        catch( URISyntaxException e )
+        {
+            // If an exception occurs during URL creation, consider the URL as invalid
+            reportInvalid( e );
+            return null;
+        }
+    }
+
+    /**
+     * Parses a URL string without reporting parse failures.
+     *
+     * @param url The URL string to parse.
+     * @return The parsed URI, or {@code null} if it has no scheme.
+     * @throws URISyntaxException if the string is not a valid URI.
+     */
+    static URI checkURL( String url ) throws URISyntaxException
+    {
+        URI uri = new URI( url );
+        // Check if the scheme (protocol) is present in the URI
+        return uri.getScheme() != null ? uri : null;
+    }
+
+    /**
+     * Checks a date of birth without reporting parse failures.
+     * Accepts any {@link CharSequence} so that callers holding off-heap text do not need to build a {@link String}.
+     *
+     * @param dob The date of birth to check, in ISO_LOCAL_DATE format.
+     * @return {@code true} if the date is not in the future and not earlier than 1900, {@code false} otherwise.
+     * @throws DateTimeParseException if the text is not a valid ISO_LOCAL_DATE.
+     */
+    static boolean checkDOB( CharSequence dob )
+    {
+        // Attempt to parse the date string into a LocalDate object using ISO_LOCAL_DATE format
+        LocalDate parsedDate = LocalDate.parse( dob, DateTimeFormatter.ISO_LOCAL_DATE );
+        // Get the current date
+        LocalDate currentDate = LocalDate.now();
+
+        // Assuming DOB must be a date in the past and within a reasonable range
+        // Check if the parsed date is not after the current date and the year is not earlier than 1900
+        return !parsedDate.isAfter( currentDate ) && parsedDate.getYear() >= 1900;
+    }
+
+    /**
+     * Checks a date and time without reporting parse failures.
+     *
+     * @param dateTime The date and time to check, in ISO_LOCAL_DATE_TIME format.
+     * @return {@code true} if the text parses.
+     * @throws DateTimeParseException if the text is not a valid ISO_LOCAL_DATE_TIME.
+     */
+    static boolean checkDateTime( CharSequence dateTime )
+    {
+        LocalDateTime.parse( dateTime, DateTimeFormatter.ISO_LOCAL_DATE_TIME );
+        // Check if the parsed datetime falls within a reasonable range
+        return true; // Assuming all valid datetime formats are acceptable
+    }
 
     public static void main( String[] args )
     {
@@ -0,0 +1,139 @@
+import org.example.ColumnValidator;
+import org.example.FieldType;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnValidatorTest
+{
+
+    private static final String[] EMAILS = {
+            "test@example.com", "invalid.email.com", "   test@example.com   ", "", "invalid.email@com",
+            "valid.email@domain.with-hyphen.com", "  ", "a@b.cd", "x@y"
+    };
+
+    private static final String[] NUMBERS = { "1234", "-1234", "0", "", "abcd", "12.34", " 1234", "1234 " };
+
+    private static final String[] STRINGS = { "abcd", "ABCD", "aBcD", "", "1234", "!@#$", "abcd efgh", "abcd1234" };
+
+    private static final String[] DATES = { "2000-01-01", "1900-01-01", "1999-02-30", "invalid", "", " 2000-01-01 ",
+            "1899-12-31", "9999-01-01", "2000-02-29", "1900-02-29", "2000-13-01", "2000-00-10", "2000-01-00",
+            "2000-1-01", "2000/01/01", "+2000-01-01", "-2000-01-01", "12000-01-01", LocalDate.now().toString(),
+            LocalDate.now().plusDays( 1 ).toString() };
+
+    private static final String[] DATE_TIMES = { "2024-02-21T12:34:56", "2024-02-30T12:34:56", "invalid", "",
+            " 2024-02-21T12:34:56 ", "2024-02-21T12:34:56Z", "2024-02-21T12:34", "2024-02-21t12:34", "2024-02-21 12:34",
+            "2024-02-21T24:00", "2024-02-21T23:60", "2024-02-21T12:34:60", "2024-02-21T12:34:", "2024-02-21T12:34:5",
+            "2024-02-21T1:34", "2024-02-21T12:34:56.", "2024-02-21T12:34:56.123456789", "2024-02-21T12:34:56.1234567891",
+            "2024-02-21T12:34:56.12a", "2024-02-21T12:34.56", "2024-02-21", "+12024-02-21T12:34", "+2024-02-21T12:34",
+            "-0001-02-21T12:34", "-0000-02-21T12:34", "12024-02-21T12:34", "0000-01-01T00:00" };
+
+    private static void assertMatchesValidator( FieldType type, String[] values )
+    {
+        byte[][] encoded = new byte[values.length][];
+        int total = 0;
+        for( int i = 0; i < values.length; i++ )
+        {
+            encoded[i] = values[i].getBytes( StandardCharsets.ISO_8859_1 );
+            total += encoded[i].length;
+        }
+
+        // Leave a gap before the first row so that absolute offsets are exercised
+        ByteBuffer data = ByteBuffer.allocateDirect( total + 3 );
+        IntBuffer offsets = ByteBuffer.allocateDirect( values.length * Integer.BYTES ).asIntBuffer();
+        IntBuffer lengths = ByteBuffer.allocateDirect( values.length * Integer.BYTES ).asIntBuffer();
+        int position = 3;
+        for( int i = 0; i < values.length; i++ )
+        {
+            data.put( position, encoded[i] );
+            offsets.put( i, position );
+            lengths.put( i, encoded[i].length );
+            position += encoded[i].length;
+        }
+
+        ByteBuffer bitmap = ByteBuffer.allocateDirect( ColumnValidator.bitmapSize( values.length ) );
+        int valid = new ColumnValidator( type ).validate( data, offsets, lengths, values.length, bitmap );
+
+        int expectedValid = 0;
+        for( int i = 0; i < values.length; i++ )
+        {
+            boolean expected = type.validate( values[i] );
+            assertEquals( type + " \"" + values[i] + "\"", expected, ColumnValidator.isValid( bitmap, i ) );
+            expectedValid += expected ? 1 : 0;
+        }
+        assertEquals( expectedValid, valid );
+    }
+
+    @Test
+    public void testEmailColumnMatchesValidator()
+    {
+        assertMatchesValidator( FieldType.EMAIL, EMAILS );
+    }
+
+    @Test
+    public void testNumberColumnMatchesValidator()
+    {
+        assertMatchesValidator( FieldType.NUMBER, NUMBERS );
+    }
+
+    @Test
+    public void testStringColumnMatchesValidator()
+    {
+        assertMatchesValidator( FieldType.STRING, STRINGS );
+    }
+
+    @Test
+    public void testDOBColumnMatchesValidator()
+    {
+        assertMatchesValidator( FieldType.DOB, DATES );
+    }
+
+    @Test
+    public void testDateTimeColumnMatchesValidator()
+    {
+        assertMatchesValidator( FieldType.DATE_TIME, DATE_TIMES );
+    }
+
+    @Test
+    public void testPasswordColumnMatchesValidator()
+    {
+        assertMatchesValidator( FieldType.PASSWORD, new String[]{ "ValidPassword123!", "Short1!", "     ", "" } );
+    }
+
+    @Test
+    public void testBitmapCoversPartialLastByte()
+    {
+        ByteBuffer data = ByteBuffer.allocateDirect( 1 );
+        data.put( 0, (byte) '7' );
+        IntBuffer offsets = IntBuffer.allocate( 9 );
+        IntBuffer lengths = IntBuffer.allocate( 9 );
+        for( int i = 0; i < 9; i++ )
+        {
+            lengths.put( i, 1 );
+        }
+        ByteBuffer bitmap = ByteBuffer.allocateDirect( ColumnValidator.bitmapSize( 9 ) );
+
+        assertEquals( 2, bitmap.capacity() );
+        assertEquals( 9, new ColumnValidator( FieldType.NUMBER ).validate( data, offsets, lengths, 9, bitmap ) );
+        assertTrue( ColumnValidator.isValid( bitmap, 8 ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testCountryColumnIsNotSupported()
+    {
+        new ColumnValidator( FieldType.COUNTRY );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testBitmapTooSmall()
+    {
+        new ColumnValidator( FieldType.NUMBER ).validate( ByteBuffer.allocateDirect( 0 ), IntBuffer.allocate( 9 ),
+                IntBuffer.allocate( 9 ), 9, ByteBuffer.allocateDirect( 1 ) );
+    }
+}
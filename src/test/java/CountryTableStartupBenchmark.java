@@ -0,0 +1,77 @@
+import org.example.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the cold-start cost of {@link Validator} with the precomputed country tables against building them at
+ * runtime. Each measurement runs in a fresh JVM, since the locale data is only loaded once per process.
+ * <p>
+ * Run after {@code mvn test-compile} with the test and main classes on the class path, for example
+ * {@code java -cp target/classes:target/test-classes CountryTableStartupBenchmark 20}.
+ */
+public class CountryTableStartupBenchmark
+{
+    private static final String PRECOMPUTED_PROPERTY = "org.example.Validator.precomputedTables";
+
+    public static void main( String[] args ) throws IOException, InterruptedException
+    {
+        if( args.length == 1 && args[0].equals( "child" ) )
+        {
+            // Time class initialization, which builds or loads the table, and the first lookup
+            long start = System.nanoTime();
+            boolean valid = Validator.validateCountry( "United States" );
+            long elapsed = System.nanoTime() - start;
+            System.out.println( elapsed + " " + valid );
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt( args[0] ) : 10;
+        long[] precomputed = new long[runs];
+        long[] runtime = new long[runs];
+        for( int i = 0; i < runs; i++ )
+        {
+            // Alternate the modes so that both see the same machine conditions
+            precomputed[i] = runChild( true );
+            runtime[i] = runChild( false );
+        }
+
+        System.out.printf( "precomputed tables: median %.2f ms%n", median( precomputed ) / 1e6 );
+        System.out.printf( "runtime tables:     median %.2f ms%n", median( runtime ) / 1e6 );
+    }
+
+    private static long runChild( boolean precomputed ) throws IOException, InterruptedException
+    {
+        List<String> command = new ArrayList<>();
+        command.add( Path.of( System.getProperty( "java.home" ), "bin", "java" ).toString() );
+        command.add( "-D" + PRECOMPUTED_PROPERTY + "=" + precomputed );
+        command.add( "-cp" );
+        command.add( System.getProperty( "java.class.path" ) );
+        command.add( CountryTableStartupBenchmark.class.getName() );
+        command.add( "child" );
+
+        Process process = new ProcessBuilder( command ).redirectErrorStream( true ).start();
+        String output;
+        try( InputStream in = process.getInputStream() )
+        {
+            output = new String( in.readAllBytes(), StandardCharsets.UTF_8 ).trim();
+        }
+        if( process.waitFor() != 0 || !output.endsWith( " true" ) )
+        {
+            throw new IllegalStateException( "Benchmark run failed: " + output );
+        }
+        return Long.parseLong( output.substring( 0, output.indexOf( ' ' ) ) );
+    }
+
+    private static long median( long[] values )
+    {
+        long[] sorted = values.clone();
+        Arrays.sort( sorted );
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,268 @@
+import org.example.DenyList;
+import org.example.Validator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DenyListTest
+{
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static DenyList disposableDomains()
+    {
+        DenyList denyList = DenyList.create( 1000, 0.01 );
+        denyList.add( "mailinator.com" );
+        denyList.add( "banned.example.org" );
+        return denyList;
+    }
+
+    @Test
+    public void testAddedEntriesAreDenied()
+    {
+        DenyList denyList = disposableDomains();
+        assertTrue( denyList.isDenied( "mailinator.com" ) );
+        assertTrue( denyList.isDenied( "banned.example.org" ) );
+        assertEquals( 2, denyList.size() );
+    }
+
+    @Test
+    public void testLookupIsCaseInsensitive()
+    {
+        assertTrue( disposableDomains().isDenied( "MailInator.COM" ) );
+    }
+
+    @Test
+    public void testSubdomainOfDeniedDomainIsDenied()
+    {
+        assertTrue( disposableDomains().isDenied( "eu.mailinator.com" ) );
+    }
+
+    @Test
+    public void testParentOfDeniedHostIsNotDenied()
+    {
+        assertFalse( disposableDomains().withConfirmation( "banned.example.org"::equals ).isDenied( "example.org" ) );
+    }
+
+    @Test
+    public void testNoFalseNegatives()
+    {
+        DenyList denyList = DenyList.create( 10_000, 0.01 );
+        for( int i = 0; i < 10_000; i++ )
+        {
+            denyList.add( "host" + i + ".example" );
+        }
+        for( int i = 0; i < 10_000; i++ )
+        {
+            assertTrue( denyList.mightContain( "host" + i + ".example" ) );
+        }
+    }
+
+    @Test
+    public void testFalsePositiveRateIsReported()
+    {
+        DenyList denyList = DenyList.create( 10_000, 0.01 );
+        for( int i = 0; i < 10_000; i++ )
+        {
+            denyList.add( "host" + i + ".example" );
+        }
+
+        int falsePositives = 0;
+        for( int i = 0; i < 100_000; i++ )
+        {
+            if( denyList.mightContain( "other" + i + ".example" ) )
+            {
+                falsePositives++;
+            }
+        }
+        double reported = denyList.falsePositiveRate();
+        assertEquals( 0.01, reported, 0.002 );
+        assertEquals( reported, falsePositives / 100_000.0, 0.005 );
+    }
+
+    @Test
+    public void testMemoryFootprintIsCompact()
+    {
+        // About 9.6 bits per entry at a 1% false-positive rate
+        long footprint = DenyList.create( 1_000_000, 0.01 ).memoryFootprint();
+        assertTrue( footprint > 1_000_000 && footprint < 1_300_000 );
+    }
+
+    @Test
+    public void testConfirmationRejectsUnconfirmedHits()
+    {
+        DenyList denyList = disposableDomains().withConfirmation( domain -> false );
+        assertFalse( denyList.isDenied( "mailinator.com" ) );
+    }
+
+    @Test
+    public void testConfirmationIsIndependentOfDefaultLocale()
+    {
+        Locale original = Locale.getDefault();
+        Locale.setDefault( Locale.forLanguageTag( "tr-TR" ) );
+        try
+        {
+            DenyList denyList = disposableDomains().withConfirmation( "mailinator.com"::equals );
+            assertTrue( denyList.isDenied( "MAILINATOR.COM" ) );
+        }
+        finally
+        {
+            Locale.setDefault( original );
+        }
+    }
+
+    @Test( expected = ReadOnlyBufferException.class )
+    public void testLoadedListIsReadOnly() throws IOException
+    {
+        Path file = folder.newFile( "deny.bin" ).toPath();
+        disposableDomains().writeTo( file );
+        DenyList.load( file ).add( "example.com" );
+    }
+
+    @Test
+    public void testWriteAndLoad() throws IOException
+    {
+        Path file = folder.newFile( "deny.bin" ).toPath();
+        DenyList original = disposableDomains();
+        original.writeTo( file );
+
+        DenyList loaded = DenyList.load( file );
+        assertTrue( loaded.isDenied( "mailinator.com" ) );
+        assertEquals( original.size(), loaded.size() );
+        assertEquals( original.memoryFootprint(), loaded.memoryFootprint() );
+        assertEquals( original.falsePositiveRate(), loaded.falsePositiveRate(), 0 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testLoadRejectsOtherFiles() throws IOException
+    {
+        DenyList.load( folder.newFile( "empty.bin" ).toPath() );
+    }
+
+    @Test
+    public void testValidateEmailWithDenyList()
+    {
+        DenyList denyList = disposableDomains();
+        assertTrue( Validator.validateEmail( "test@example.com", denyList ) );
+        assertFalse( Validator.validateEmail( "  someone@mailinator.com ", denyList ) );
+        assertFalse( Validator.validateEmail( "invalid.email.com", denyList ) );
+    }
+
+    @Test
+    public void testValidateURLWithDenyList()
+    {
+        DenyList denyList = disposableDomains();
+        assertTrue( Validator.validateURL( "https://www.example.com", denyList ) );
+        assertFalse( Validator.validateURL( "https://banned.example.org/path", denyList ) );
+        assertFalse( Validator.validateURL( "www.example.com", denyList ) );
+    }
+
+    @Test
+    public void testValidateURLWithDenyList_NonServerHost()
+    {
+        // URI.getHost() is null for hosts with an underscore
+        assertFalse( Validator.validateURL( "https://x_y.mailinator.com/", disposableDomains() ) );
+    }
+
+    @Test
+    public void testValidateURLWithDenyList_TrailingDot()
+    {
+        assertFalse( Validator.validateURL( "https://mailinator.com./", disposableDomains() ) );
+    }
+
+    @Test
+    public void testValidateURLWithDenyList_UserInfoAndPort()
+    {
+        DenyList denyList = disposableDomains();
+        assertFalse( Validator.validateURL( "https://user:pw@eu.mailinator.com:8443/path", denyList ) );
+        assertTrue( Validator.validateURL( "https://mailinator.com@www.example.com:8080/", denyList ) );
+        assertTrue( Validator.validateURL( "http://[::1]:8080/", denyList ) );
+    }
+
+    @Test
+    public void testValidateURLWithDenyList_PercentEncodedHost()
+    {
+        assertFalse( Validator.validateURL( "https://mailinator%2Ecom/", disposableDomains() ) );
+        assertFalse( Validator.validateURL( "https://%6Dailinator.com/", disposableDomains() ) );
+    }
+
+    @Test
+    public void testValidateURLWithDenyList_IdeographicFullStop()
+    {
+        assertFalse( Validator.validateURL( "https://mailinator.com\u3002/", disposableDomains() ) );
+        assertFalse( Validator.validateURL( "https://mailinator\u3002com/", disposableDomains() ) );
+    }
+
+    @Test
+    public void testValidateURLWithDenyList_UnicodeHostMatchesPunycodeEntry()
+    {
+        DenyList denyList = DenyList.create( 1000, 0.01 );
+        denyList.add( "xn--bcher-kva.example" );
+        assertFalse( Validator.validateURL( "https://b\u00fccher.example/", denyList ) );
+        assertFalse( Validator.validateURL( "https://shop.B\u00dcCHER.example/", denyList ) );
+        assertTrue( Validator.validateURL( "https://bucher.example/", denyList ) );
+    }
+
+    @Test
+    public void testUnicodeEntryMatchesPunycodeHost()
+    {
+        DenyList denyList = DenyList.create( 1000, 0.01 );
+        denyList.add( "b\u00fccher.example" );
+        assertTrue( denyList.isDenied( "xn--bcher-kva.example" ) );
+        assertTrue( denyList.withConfirmation( "xn--bcher-kva.example"::equals ).isDenied( "b\u00fccher.example" ) );
+    }
+
+    @Test
+    public void testValidateURLWithDenyList_InvalidHostIsRejected()
+    {
+        assertFalse( Validator.validateURL( "https://a..example.com/", disposableDomains() ) );
+        assertFalse( Validator.validateURL( "https://example%FF.com/", disposableDomains() ) );
+    }
+
+    @Test
+    public void testValidateURLWithDenyList_Mailto()
+    {
+        DenyList denyList = disposableDomains();
+        assertFalse( Validator.validateURL( "mailto:someone@mailinator.com", denyList ) );
+        assertFalse( Validator.validateURL( "mailto:a@example.com,b@MAILINATOR.com?subject=hi", denyList ) );
+        assertFalse( Validator.validateURL( "mailto:someone%40mailinator.com", denyList ) );
+        assertTrue( Validator.validateURL( "mailto:someone@example.com?cc=x@mailinator.com", denyList ) );
+    }
+
+    @Test
+    public void testValidateURLWithDenyList_SpecialSchemeWithoutSlashes()
+    {
+        DenyList denyList = disposableDomains();
+        assertFalse( Validator.validateURL( "http:mailinator.com", denyList ) );
+        assertFalse( Validator.validateURL( "https:/mailinator.com/path", denyList ) );
+        assertTrue( Validator.validateURL( "http:www.example.com", denyList ) );
+        assertTrue( Validator.validateURL( "urn:isbn:mailinator.com", denyList ) );
+    }
+
+    @Test
+    public void testNormalizationIsSameWithAndWithoutConfirmation()
+    {
+        DenyList denyList = disposableDomains();
+        DenyList confirmed = denyList.withConfirmation( "mailinator.com"::equals );
+        for( String host : new String[]{ "MAILINATOR.COM", "MA\u0130LINATOR.COM", "mailinator.com.", "mailinator%2Ecom" } )
+        {
+            assertEquals( host, denyList.isDenied( host ), confirmed.isDenied( host ) );
+        }
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testAddRejectsInvalidHost()
+    {
+        disposableDomains().add( "a..b" );
+    }
+}
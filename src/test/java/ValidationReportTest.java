@@ -0,0 +1,123 @@
+import org.example.FailureReason;
+import org.example.FieldType;
+import org.example.ValidationReport;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ValidationReportTest
+{
+
+    @Test
+    public void testCountsFailuresPerField()
+    {
+        ValidationReport report = new ValidationReport();
+        assertTrue( report.record( FieldType.EMAIL, "test@example.com" ) );
+        assertFalse( report.record( FieldType.EMAIL, "invalid.email.com" ) );
+        assertFalse( report.record( FieldType.NUMBER, "12.34" ) );
+
+        assertEquals( 2, report.checked( FieldType.EMAIL ) );
+        assertEquals( 1, report.failures( FieldType.EMAIL ) );
+        assertEquals( 1, report.failures( FieldType.NUMBER ) );
+        assertEquals( 0, report.failures( FieldType.URL ) );
+    }
+
+    @Test
+    public void testCountsFailuresPerReason()
+    {
+        ValidationReport report = new ValidationReport();
+        report.record( FieldType.DOB, null );
+        report.record( FieldType.DOB, "   " );
+        report.record( FieldType.DOB, "invalid" );
+        report.record( FieldType.DOB, "1899-12-31" );
+        report.record( FieldType.COUNTRY, "Atlantis" );
+
+        assertEquals( 2, report.failures( FieldType.DOB, FailureReason.MISSING ) );
+        assertEquals( 1, report.failures( FieldType.DOB, FailureReason.MALFORMED ) );
+        assertEquals( 1, report.failures( FieldType.DOB, FailureReason.OUT_OF_RANGE ) );
+        assertEquals( 1, report.failures( FieldType.COUNTRY, FailureReason.UNKNOWN ) );
+    }
+
+    @Test
+    public void testURLFailuresMatchValidateURL()
+    {
+        ValidationReport report = new ValidationReport();
+        assertTrue( report.record( FieldType.URL, "https://www.example.com" ) );
+        assertFalse( report.record( FieldType.URL, "www.example.com" ) );
+        assertFalse( report.record( FieldType.URL, "http://www.example.com/path with spaces" ) );
+        assertFalse( report.record( FieldType.URL, "" ) );
+
+        assertEquals( 2, report.failures( FieldType.URL, FailureReason.MALFORMED ) );
+        assertEquals( 1, report.failures( FieldType.URL, FailureReason.MISSING ) );
+    }
+
+    @Test
+    public void testTopInvalidValues()
+    {
+        ValidationReport report = new ValidationReport( 2 );
+        for( int i = 0; i < 100; i++ )
+        {
+            report.record( FieldType.COUNTRY, "Atlantis" );
+            report.record( FieldType.COUNTRY, "Unique" + i );
+            if( i % 2 == 0 )
+            {
+                report.record( FieldType.COUNTRY, "Narnia" );
+            }
+        }
+
+        List<Map.Entry<String,Long>> top = report.topInvalid( FieldType.COUNTRY );
+        assertEquals( 2, top.size() );
+        assertEquals( "Atlantis", top.get( 0 ).getKey() );
+        assertEquals( "Narnia", top.get( 1 ).getKey() );
+        assertTrue( top.get( 0 ).getValue() >= 100 );
+    }
+
+    @Test
+    public void testDistinctInvalidValues()
+    {
+        ValidationReport report = new ValidationReport();
+        for( int i = 0; i < 100_000; i++ )
+        {
+            report.record( FieldType.COUNTRY, "Country" + ( i % 10_000 ) );
+        }
+        assertEquals( 10_000, report.distinctInvalid( FieldType.COUNTRY ), 500 );
+        assertEquals( 0, report.distinctInvalid( FieldType.EMAIL ) );
+    }
+
+    @Test
+    public void testParallelCollectorMatchesSequential()
+    {
+        String[] values = IntStream.range( 0, 50_000 )
+                .mapToObj( i -> i % 3 == 0 ? "abc" + i : String.valueOf( i % 7 == 0 ? "x" + ( i % 50 ) : i ) )
+                .toArray( String[]::new );
+
+        ValidationReport sequential = Stream.of( values ).collect( ValidationReport.collector( FieldType.NUMBER ) );
+        ValidationReport parallel = Stream.of( values ).parallel()
+                .collect( ValidationReport.collector( FieldType.NUMBER ) );
+
+        assertEquals( values.length, parallel.checked( FieldType.NUMBER ) );
+        assertEquals( sequential.failures( FieldType.NUMBER ), parallel.failures( FieldType.NUMBER ) );
+        assertEquals( sequential.failures( FieldType.NUMBER, FailureReason.MALFORMED ),
+                parallel.failures( FieldType.NUMBER, FailureReason.MALFORMED ) );
+        assertEquals( sequential.distinctInvalid( FieldType.NUMBER ), parallel.distinctInvalid( FieldType.NUMBER ) );
+    }
+
+    @Test
+    public void testTopInvalidIsEmptyWithoutFailures()
+    {
+        assertTrue( new ValidationReport().topInvalid( FieldType.EMAIL ).isEmpty() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testTopNMustBePositive()
+    {
+        new ValidationReport( 0 );
+    }
+}
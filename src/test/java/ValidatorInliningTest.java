@@ -0,0 +1,105 @@
+import org.example.Validator;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Fails the build if C2 stops inlining the {@link Validator} entry points into a hot caller.
+ * The caller runs in a child JVM with {@code -XX:+PrintInlining}, with tiered compilation off so that C2 compiles
+ * it whatever compiler settings the environment passes in, and with compilation made synchronous so the result does
+ * not depend on how busy the machine is. The test is skipped on VMs other than HotSpot and when the child JVM does
+ * not run C2 at all, for example under {@code -Xint}.
+ */
+public class ValidatorInliningTest
+{
+
+    private static final String[] ENTRY_POINTS = {
+            "validateEmail", "validatePassword", "validateDOB", "validateDateTime", "validateCountry", "validateURL",
+            "validateString", "validateNumber"
+    };
+
+    /**
+     * A hot call site for every entry point. Runs in the child JVM.
+     */
+    public static class Harness
+    {
+        private static int sink;
+
+        private static int callAll( int i )
+        {
+            int valid = 0;
+            valid += Validator.validateEmail( "test@example.com" ) ? 1 : 0;
+            valid += Validator.validatePassword( "ValidPassword123!" ) ? 1 : 0;
+            valid += Validator.validateDOB( "2000-01-01" ) ? 1 : 0;
+            valid += Validator.validateDateTime( "2024-02-21T12:34:56" ) ? 1 : 0;
+            valid += Validator.validateCountry( "United States" ) ? 1 : 0;
+            valid += Validator.validateURL( "https://www.example.com" ) ? 1 : 0;
+            valid += Validator.validateString( "abcd" ) ? 1 : 0;
+            valid += Validator.validateNumber( "1234" ) ? 1 : 0;
+            return valid + i;
+        }
+
+        public static void main( String[] args )
+        {
+            for( int i = 0; i < 100_000; i++ )
+            {
+                sink += callAll( i );
+            }
+        }
+    }
+
+    @Test
+    public void testEntryPointsInlineIntoHotCaller() throws IOException, InterruptedException
+    {
+        String vmName = System.getProperty( "java.vm.name" );
+        assumeTrue( "PrintInlining output is specific to HotSpot, not " + vmName,
+                vmName.contains( "HotSpot" ) || vmName.contains( "OpenJDK" ) );
+
+        List<String> command = new ArrayList<>();
+        command.add( Path.of( System.getProperty( "java.home" ), "bin", "java" ).toString() );
+        command.add( "-Xbatch" );
+        command.add( "-XX:-TieredCompilation" );
+        command.add( "-XX:+UnlockDiagnosticVMOptions" );
+        command.add( "-XX:+PrintInlining" );
+        command.add( "-cp" );
+        command.add( System.getProperty( "java.class.path" ) );
+        command.add( Harness.class.getName() );
+
+        Process process = new ProcessBuilder( command ).redirectErrorStream( true ).start();
+        String output;
+        try( InputStream in = process.getInputStream() )
+        {
+            output = new String( in.readAllBytes(), StandardCharsets.UTF_8 );
+        }
+        assertEquals( output, 0, process.waitFor() );
+        // "inline (hot)" is only printed by C2, which inlines many JDK methods whatever happens to Validator
+        assumeTrue( "C2 did not run in the child JVM", output.contains( "inline (hot)" ) );
+
+        for( String entryPoint : ENTRY_POINTS )
+        {
+            assertTrue( entryPoint + " was not inlined by C2",
+                    inlinedHot( output, "org.example.Validator::" + entryPoint + " " ) );
+        }
+    }
+
+    private static boolean inlinedHot( String output, String method )
+    {
+        for( String line : output.split( "\\R" ) )
+        {
+            if( line.contains( method ) && line.endsWith( "inline (hot)" ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
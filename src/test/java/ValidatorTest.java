@@ -1,6 +1,8 @@
 import org.example.Validator;
 import org.junit.Test;
 
+import java.util.Locale;
+
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -49,6 +51,18 @@ public class ValidatorTest
         assertTrue( Validator.validateEmail( "   test@example.com   " ) );
     }
 
+    @Test
+    public void testValidEmail_LeadingTrailingControlCharacters()
+    {
+        assertTrue( Validator.validateEmail( "\u0001test@example.com\u0000" ) );
+    }
+
+    @Test
+    public void testInvalidEmail_WhitespaceOnly()
+    {
+        assertFalse( Validator.validateEmail( " \t " ) );
+    }
+
     @Test
     public void testInvalidEmail_EmptyString()
     {
@@ -235,6 +249,24 @@ public class ValidatorTest
         assertTrue( Validator.validateCountry( "united states" ) );
     }
 
+    @Test
+    public void testValidCountryName_UppercaseUnderTurkishLocale()
+    {
+        // Load the country table under the original locale first
+        assertTrue( Validator.validateCountry( "India" ) );
+
+        Locale original = Locale.getDefault();
+        Locale.setDefault( Locale.forLanguageTag( "tr-TR" ) );
+        try
+        {
+            assertTrue( Validator.validateCountry( "INDIA" ) );
+        }
+        finally
+        {
+            Locale.setDefault( original );
+        }
+    }
+
     @Test
     public void testInvalidCountryName()
     {